@@ -174,9 +174,9 @@ capsule fannkuchred(int task, int n, Collector c) {
     }
 }
 
-capsule Collector {
+capsule Collector(int n, int numTasks) {
 	int flips = 0, chk = 0;
-	int n = 8;
+	int doneTasks = 0;
 	void collect(Result res) {
 		//for(Result res : results) {
 			int u = res.get_max_flip();
@@ -184,8 +184,8 @@ capsule Collector {
 			flips = Math.max( flips, u );
 			chk += v;
 		//}
-		n--;
-		if (n == 0)
+		doneTasks++;
+		if (doneTasks == numTasks)
 			printResult(flips, chk );
 	}
 	private void printResult( int res, int chk ) 
@@ -221,6 +221,7 @@ capsule Fannkuchredux(String[] args) {
         frdux[5](5,n,c);
         frdux[6](6,n,c);
         frdux[7](7,n,c);
+        c(n, frdux.length);
 	}
 	
 	private void printResult( int res, int chk ) 
@@ -130,19 +130,19 @@ capsule SequenceGen {
 	}
 }
 
-capsule Collector {
+capsule Collector(int numFragments) {
 	byte[] sequence;
 	List<Result> resultObjs = new ArrayList<Result>();
-	int n = 46;
+	int doneFragments = 0;
 	
 	void init(byte[] seq) {
 		sequence = seq;
 	}
 	
 	void collect(Result res) {
-		n--;
+		doneFragments++;
 		resultObjs.add(res);
-		if (n == 0) {
+		if (doneFragments == numFragments) {
 			process();
 		}
 	}
@@ -210,6 +210,7 @@ capsule Knucleotide (String args[]) {
 		 Nucleotide nucleotides[46];
 		 Collector c;
 		 wireall(nucleotides, c);
+		 c(nucleotides.length);
 	}
 	
 	void run() {
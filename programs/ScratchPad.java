@@ -65,7 +65,7 @@ capsule LocCounter(Accumulator whoToTell) {
 	}
 }
 
-capsule Accumulator(ResultAccumulator whoToTell) {
+capsule Accumulator(ResultAccumulator whoToTell, int numWorkers) {
 	int min = 100000; int max = 0;
 	String minFile; String maxFile;
 	int doneWorkers = 0;
@@ -84,14 +84,14 @@ capsule Accumulator(ResultAccumulator whoToTell) {
 	
 	void done() {
 		doneWorkers++;
-		if (doneWorkers == 2) {
+		if (doneWorkers == numWorkers) {
 			System.out.println("Acc workCount : "+workCount);
 			whoToTell.report(new Result(min, max, minFile, maxFile));
 		}
 	}
 }
 
-capsule ResultAccumulator() {
+capsule ResultAccumulator(int numAccumulators) {
 	int min = 100000; int max = 0;
 	String minFile; String maxFile;
 	int doneWorkers = 0;
@@ -105,7 +105,7 @@ capsule ResultAccumulator() {
 			maxFile = result.maxFile;
 		}
 		doneWorkers++;
-		if (doneWorkers == 5)
+		if (doneWorkers == numAccumulators)
 			end();
 	}
 	private void end() {
@@ -176,7 +176,8 @@ capsule ScratchPad(String[] args) {
 		workerPool[4](accumulators[2]); workerPool[5](accumulators[2]);
 		workerPool[6](accumulators[3]); workerPool[7](accumulators[3]);
 		workerPool[8](accumulators[4]); workerPool[9](accumulators[4]);
-		wireall(accumulators, resultacc);
+		wireall(accumulators, resultacc, workerPool.length / accumulators.length);
+		resultacc(accumulators.length);
 	}
 	void run() {
 		File file = new File(args[0]);
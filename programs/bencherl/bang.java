@@ -36,7 +36,7 @@ capsule Sender (Receiver receiver) {
 
 capsule Receiver {
 	//java.util.List<String> output = new java.util.ArrayList<String>();
-	String[] output = new String[500];
+	String[] output = new String[440*440]; // S senders * M messages
 	int count = 0;
 	void receive(String msg) {
 		output[count++] = msg;